@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.btree.jmh_generated;
+public class BTreeBench_BuildSizeState_jmhType extends BTreeBench_BuildSizeState_jmhType_B3 {
+}
+
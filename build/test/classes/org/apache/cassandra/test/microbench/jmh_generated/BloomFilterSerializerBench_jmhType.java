@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class BloomFilterSerializerBench_jmhType extends BloomFilterSerializerBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DiagnosticEventServiceBench_jmhType extends DiagnosticEventServiceBench_jmhType_B3 {
+}
+
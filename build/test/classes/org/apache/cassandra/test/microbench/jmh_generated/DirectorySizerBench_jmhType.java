@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class DirectorySizerBench_jmhType extends DirectorySizerBench_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.cassandra.test.microbench.jmh_generated;
+public class PendingRangesBench_jmhType extends PendingRangesBench_jmhType_B3 {
+}
+